@@ -0,0 +1,45 @@
+package org.example.notesapp.loadtest;
+
+/**
+ * Operations driven against {@code NoteController}, weighted to resemble a read-heavy client mix.
+ */
+public enum Endpoint {
+    LIST(30),
+    LIST_BY_TAGS(20),
+    DETAIL(25),
+    MULTI_GET(5),
+    STATISTICS(10),
+    CREATE(7),
+    UPDATE(5),
+    DELETE(3);
+
+    private static final int TOTAL_WEIGHT = computeTotalWeight();
+
+    private final int weight;
+
+    Endpoint(int weight) {
+        this.weight = weight;
+    }
+
+    /**
+     * Picks an endpoint for a uniform random value in {@code [0, 1)}.
+     */
+    public static Endpoint pick(double random) {
+        int target = (int) (random * TOTAL_WEIGHT);
+        for (Endpoint endpoint : values()) {
+            target -= endpoint.weight;
+            if (target < 0) {
+                return endpoint;
+            }
+        }
+        return LIST;
+    }
+
+    private static int computeTotalWeight() {
+        int total = 0;
+        for (Endpoint endpoint : values()) {
+            total += endpoint.weight;
+        }
+        return total;
+    }
+}
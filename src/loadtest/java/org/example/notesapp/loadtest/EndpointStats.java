@@ -0,0 +1,37 @@
+package org.example.notesapp.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram and error count for one endpoint. Latencies are recorded in microseconds.
+ */
+public class EndpointStats {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Histogram latency = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder errors = new LongAdder();
+
+    public void record(long latencyNanos, boolean success) {
+        latency.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS));
+        if (!success) {
+            errors.increment();
+        }
+    }
+
+    public Histogram getLatency() {
+        return latency;
+    }
+
+    public long getRequests() {
+        return latency.getTotalCount();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.notesapp.loadtest;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Ids of notes known to exist, shared by the workers that read, update and delete them.
+ */
+public class IdPool {
+
+    private final List<String> ids;
+
+    public IdPool(Collection<String> ids) {
+        this.ids = new ArrayList<>(ids);
+    }
+
+    public synchronized void add(String id) {
+        ids.add(id);
+    }
+
+    public synchronized String random(Random random) {
+        if (ids.isEmpty()) {
+            return null;
+        }
+        return ids.get(random.nextInt(ids.size()));
+    }
+
+    public synchronized List<String> random(Random random, int count) {
+        List<String> sample = new ArrayList<>(count);
+        for (int i = 0; i < count && !ids.isEmpty(); i++) {
+            sample.add(ids.get(random.nextInt(ids.size())));
+        }
+        return sample;
+    }
+
+    /**
+     * Removes and returns a random id, so concurrent deletes never target the same note.
+     */
+    public synchronized String take(Random random) {
+        if (ids.isEmpty()) {
+            return null;
+        }
+        int index = random.nextInt(ids.size());
+        String last = ids.remove(ids.size() - 1);
+        if (index == ids.size()) {
+            return last;
+        }
+        return ids.set(index, last);
+    }
+}
@@ -0,0 +1,178 @@
+package org.example.notesapp.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.example.notesapp.dto.MultiGetRequest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop request generator: requests are scheduled at a fixed rate regardless of how fast
+ * the service answers, and latency is measured from the scheduled start so that queueing
+ * behind a slow response is reported instead of hidden (no coordinated omission).
+ */
+public class LoadGenerator {
+
+    private static final String[] TAG_FILTERS = {
+            "PERSONAL", "BUSINESS", "IMPORTANT", "BUSINESS,IMPORTANT", "PERSONAL,IMPORTANT"
+    };
+    private static final int[] PAGE_SIZES = {10, 20, 50};
+    private static final int MULTI_GET_MIN_IDS = 20;
+    private static final int MULTI_GET_MAX_IDS = 200;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+    private final IdPool ids;
+    private final int threads;
+    private final long seed;
+
+    public LoadGenerator(String baseUrl, IdPool ids, int threads, long seed) {
+        this.baseUrl = baseUrl;
+        this.ids = ids;
+        this.threads = threads;
+        this.seed = seed;
+    }
+
+    /**
+     * Drives the mixed workload at {@code rate} requests per second for {@code duration}
+     * and waits for in-flight requests to finish. The endpoint sequence and each request's
+     * parameters come from {@code seed}, so runs with the same seed issue the same mix.
+     */
+    public Result run(int rate, Duration duration) throws InterruptedException {
+        Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            stats.put(endpoint, new EndpointStats());
+        }
+
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+        Random random = new Random(seed);
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+
+        for (long i = 0; ; i++) {
+            long intended = start + i * intervalNanos;
+            if (intended >= end) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Endpoint endpoint = Endpoint.pick(random.nextDouble());
+            long requestSeed = random.nextLong();
+            workers.execute(() -> execute(endpoint, new Random(requestSeed), intended, stats.get(endpoint)));
+        }
+
+        workers.shutdown();
+        workers.awaitTermination(1, TimeUnit.HOURS);
+        return new Result(stats, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private void execute(Endpoint endpoint, Random random, long intendedNanos, EndpointStats stats) {
+        boolean success = false;
+        try {
+            HttpRequest request = buildRequest(endpoint, random);
+            if (request == null) {
+                // No note left to read or modify; nothing was sent.
+                return;
+            }
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            success = response.statusCode() < 400;
+            if (success && endpoint == Endpoint.CREATE) {
+                ids.add(objectMapper.readTree(response.body()).get("id").asText());
+            }
+        } catch (IOException | RuntimeException e) {
+            // Includes unexpected responses, e.g. a created note without an id.
+            success = false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        stats.record(System.nanoTime() - intendedNanos, success);
+    }
+
+    private HttpRequest buildRequest(Endpoint endpoint, Random random) {
+        switch (endpoint) {
+            case LIST:
+                return get("/api/notes?page=" + random.nextInt(5) + "&size=" + pageSize(random));
+            case LIST_BY_TAGS:
+                return get("/api/notes?page=" + random.nextInt(5) + "&size=" + pageSize(random)
+                        + "&tags=" + TAG_FILTERS[random.nextInt(TAG_FILTERS.length)]);
+            case DETAIL: {
+                String id = ids.random(random);
+                return id == null ? null : get("/api/notes/" + id);
+            }
+            case MULTI_GET: {
+                List<String> sample = ids.random(random, MULTI_GET_MIN_IDS + random.nextInt(MULTI_GET_MAX_IDS - MULTI_GET_MIN_IDS));
+                if (sample.isEmpty()) {
+                    return null;
+                }
+                String view = random.nextBoolean() ? "summary" : "detail";
+                return request("/api/notes/_mget?view=" + view).POST(jsonBody(new MultiGetRequest(sample))).build();
+            }
+            case STATISTICS: {
+                String id = ids.random(random);
+                return id == null ? null : get("/api/notes/" + id + "/statistics");
+            }
+            case CREATE:
+                return request("/api/notes").POST(jsonBody(NoteFixtures.request(random))).build();
+            case UPDATE: {
+                String id = ids.random(random);
+                return id == null ? null : request("/api/notes/" + id).PUT(jsonBody(NoteFixtures.request(random))).build();
+            }
+            case DELETE: {
+                String id = ids.take(random);
+                return id == null ? null : request("/api/notes/" + id).DELETE().build();
+            }
+            default:
+                throw new IllegalArgumentException("Unknown endpoint: " + endpoint);
+        }
+    }
+
+    private static int pageSize(Random random) {
+        return PAGE_SIZES[random.nextInt(PAGE_SIZES.length)];
+    }
+
+    private HttpRequest get(String path) {
+        return request(path).GET().build();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json");
+    }
+
+    private HttpRequest.BodyPublisher jsonBody(Object body) {
+        try {
+            return HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body));
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to serialize request body", e);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Result {
+        private final Map<Endpoint, EndpointStats> stats;
+        private final Duration elapsed;
+    }
+}
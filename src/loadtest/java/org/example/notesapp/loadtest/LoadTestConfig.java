@@ -0,0 +1,48 @@
+package org.example.notesapp.loadtest;
+
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Load test settings, read from {@code loadtest.*} system properties so they can be
+ * overridden from the Maven command line.
+ */
+@Getter
+public class LoadTestConfig {
+    private final int notes;
+    private final int rate;
+    private final Duration warmup;
+    private final Duration duration;
+    private final int threads;
+    private final long seed;
+    private final String mongoUri;
+    private final boolean dropExisting;
+    private final Path output;
+    private final Path baseline;
+    private final double tolerance;
+
+    private LoadTestConfig() {
+        this.notes = Integer.getInteger("loadtest.notes", 5000);
+        this.rate = Integer.getInteger("loadtest.rate", 200);
+        this.warmup = Duration.ofSeconds(Integer.getInteger("loadtest.warmup", 10));
+        this.duration = Duration.ofSeconds(Integer.getInteger("loadtest.duration", 60));
+        this.threads = Integer.getInteger("loadtest.threads", 32);
+        this.seed = Long.getLong("loadtest.seed", 42L);
+        this.mongoUri = blankToNull(System.getProperty("loadtest.mongoUri"));
+        this.dropExisting = Boolean.getBoolean("loadtest.dropExisting");
+        this.output = Path.of(System.getProperty("loadtest.output", "target/loadtest/results.json"));
+        String baselinePath = blankToNull(System.getProperty("loadtest.baseline"));
+        this.baseline = baselinePath != null ? Path.of(baselinePath) : null;
+        this.tolerance = Double.parseDouble(System.getProperty("loadtest.tolerance", "0.20"));
+    }
+
+    public static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig();
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
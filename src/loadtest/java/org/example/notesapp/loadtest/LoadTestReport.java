@@ -0,0 +1,200 @@
+package org.example.notesapp.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Turns a load run into a JSON results file plus one HdrHistogram percentile distribution
+ * ({@code .hgrm}) per endpoint, and compares results against a previous run.
+ */
+public class LoadTestReport {
+
+    static final List<String> COMPARED_SETTINGS = List.of("notes", "rate", "durationSeconds", "threads", "seed", "mongo");
+
+    static final double MAX_ERROR_RATE_INCREASE = 0.005;
+
+    private static final double[] PERCENTILES = {50.0, 90.0, 99.0, 99.9};
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private final LoadTestConfig config;
+    private final LoadGenerator.Result result;
+
+    public LoadTestReport(LoadTestConfig config, LoadGenerator.Result result) {
+        this.config = config;
+        this.result = result;
+    }
+
+    public ObjectNode toJson() {
+        double seconds = result.getElapsed().toNanos() / 1e9;
+        Histogram total = new Histogram(3);
+        long totalErrors = 0;
+
+        ObjectNode root = objectMapper.createObjectNode();
+        root.put("timestamp", Instant.now().toString());
+        ObjectNode settings = root.putObject("config");
+        settings.put("notes", config.getNotes());
+        settings.put("rate", config.getRate());
+        settings.put("durationSeconds", config.getDuration().toSeconds());
+        settings.put("threads", config.getThreads());
+        settings.put("seed", config.getSeed());
+        settings.put("mongo", config.getMongoUri() != null ? "external" : "in-process");
+
+        ObjectNode endpoints = root.putObject("endpoints");
+        for (Map.Entry<Endpoint, EndpointStats> entry : result.getStats().entrySet()) {
+            EndpointStats stats = entry.getValue();
+            total.add(stats.getLatency());
+            totalErrors += stats.getErrors();
+            endpoints.set(entry.getKey().name(), summary(stats.getLatency(), stats.getErrors(), seconds));
+        }
+        root.set("total", summary(total, totalErrors, seconds));
+        return root;
+    }
+
+    public void write(ObjectNode json) throws IOException {
+        Path output = config.getOutput().toAbsolutePath();
+        Files.createDirectories(output.getParent());
+        objectMapper.writeValue(output.toFile(), json);
+
+        for (Map.Entry<Endpoint, EndpointStats> entry : result.getStats().entrySet()) {
+            Path hgrm = output.resolveSibling(entry.getKey().name().toLowerCase(Locale.ROOT) + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(hgrm))) {
+                entry.getValue().getLatency().outputPercentileDistribution(out, MICROS_PER_MILLI);
+            }
+        }
+    }
+
+    public void print(ObjectNode json, PrintStream out) {
+        out.printf(Locale.ROOT, "%-14s %9s %7s %10s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        json.get("endpoints").properties().forEach(entry -> printRow(out, entry.getKey(), entry.getValue()));
+        printRow(out, "TOTAL", json.get("total"));
+    }
+
+    /**
+     * Lists endpoints whose p99 grew, or whose successful throughput dropped, by more than
+     * {@code tolerance} relative to {@code baseline}, or whose error rate rose by more than
+     * {@link #MAX_ERROR_RATE_INCREASE}. Endpoints missing from either run are skipped.
+     *
+     * <p>The error rate check matters most: a change that makes requests fail fast lowers p99,
+     * and without it would pass the gate.
+     *
+     * <p>Throughput is set by the target rate in an open-loop run, so results are only comparable
+     * when the runs used the same settings; any difference in {@link #COMPARED_SETTINGS} is
+     * reported as a failure and the metrics are not compared.
+     */
+    public static List<String> compare(JsonNode current, JsonNode baseline, double tolerance) {
+        List<String> mismatches = new ArrayList<>();
+        for (String setting : COMPARED_SETTINGS) {
+            JsonNode now = current.path("config").path(setting);
+            JsonNode before = baseline.path("config").path(setting);
+            if (!now.equals(before)) {
+                mismatches.add(String.format(Locale.ROOT, "config.%s is %s but baseline has %s; "
+                        + "rerun the baseline with the same settings", setting, now, before.isMissingNode() ? "none" : before));
+            }
+        }
+        if (!mismatches.isEmpty()) {
+            return mismatches;
+        }
+
+        List<String> regressions = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        current.path("endpoints").fieldNames().forEachRemaining(names::add);
+        names.add("total");
+
+        for (String name : names) {
+            JsonNode now = "total".equals(name) ? current.path("total") : current.path("endpoints").path(name);
+            JsonNode before = "total".equals(name) ? baseline.path("total") : baseline.path("endpoints").path(name);
+            if (now.path("requests").asLong() == 0 || before.path("requests").asLong() == 0) {
+                continue;
+            }
+
+            JsonNode baselineP99Node = before.path("latencyMicros").path("p99");
+            if (baselineP99Node.isNumber()) {
+                long p99 = now.path("latencyMicros").path("p99").asLong();
+                long baselineP99 = baselineP99Node.asLong();
+                if (p99 > baselineP99 * (1 + tolerance)) {
+                    regressions.add(String.format(Locale.ROOT, "%s p99 %d us > baseline %d us", name, p99, baselineP99));
+                }
+            }
+
+            double baselineErrorRate = errorRate(before);
+            if (!Double.isNaN(baselineErrorRate)) {
+                double currentErrorRate = errorRate(now);
+                if (currentErrorRate > baselineErrorRate + MAX_ERROR_RATE_INCREASE) {
+                    regressions.add(String.format(Locale.ROOT, "%s error rate %.2f%% > baseline %.2f%%",
+                            name, currentErrorRate * 100, baselineErrorRate * 100));
+                }
+            }
+
+            JsonNode baselineThroughputNode = before.path("throughput");
+            if (baselineThroughputNode.isNumber()) {
+                double throughput = now.path("throughput").asDouble();
+                double baselineThroughput = baselineThroughputNode.asDouble();
+                if (throughput < baselineThroughput * (1 - tolerance)) {
+                    regressions.add(String.format(Locale.ROOT, "%s throughput %.1f req/s < baseline %.1f req/s",
+                            name, throughput, baselineThroughput));
+                }
+            }
+        }
+        return regressions;
+    }
+
+    private static double errorRate(JsonNode summary) {
+        JsonNode errors = summary.path("errors");
+        long requests = summary.path("requests").asLong();
+        return errors.isNumber() && requests > 0 ? (double) errors.asLong() / requests : Double.NaN;
+    }
+
+    /**
+     * Throughput counts successful requests only, so failures never look like served load.
+     */
+    private ObjectNode summary(Histogram histogram, long errors, double seconds) {
+        long requests = histogram.getTotalCount();
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("requests", requests);
+        node.put("errors", errors);
+        node.put("errorRate", requests > 0 ? (double) errors / requests : 0);
+        node.put("throughput", seconds > 0 ? (requests - errors) / seconds : 0);
+        ObjectNode latency = node.putObject("latencyMicros");
+        latency.put("mean", Math.round(histogram.getMean()));
+        for (double percentile : PERCENTILES) {
+            latency.put(percentileKey(percentile), histogram.getValueAtPercentile(percentile));
+        }
+        latency.put("max", histogram.getMaxValue());
+        return node;
+    }
+
+    private static String percentileKey(double percentile) {
+        return "p" + (percentile == Math.rint(percentile)
+                ? String.valueOf((long) percentile)
+                : String.valueOf(percentile).replace(".", ""));
+    }
+
+    private static void printRow(PrintStream out, String name, JsonNode node) {
+        JsonNode latency = node.get("latencyMicros");
+        out.printf(Locale.ROOT, "%-14s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                name,
+                node.get("requests").asLong(),
+                node.get("errors").asLong(),
+                node.get("throughput").asDouble(),
+                latency.get("p50").asLong() / MICROS_PER_MILLI,
+                latency.get("p90").asLong() / MICROS_PER_MILLI,
+                latency.get("p99").asLong() / MICROS_PER_MILLI,
+                latency.get("p999").asLong() / MICROS_PER_MILLI,
+                latency.get("max").asLong() / MICROS_PER_MILLI);
+    }
+}
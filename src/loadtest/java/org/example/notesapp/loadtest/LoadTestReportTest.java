@@ -0,0 +1,128 @@
+package org.example.notesapp.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadTestReportTest {
+
+    private static final double TOLERANCE = 0.20;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void compare_WithinTolerance_ShouldReportNothing() {
+        ObjectNode baseline = result(200, 10_000, 200.0);
+        ObjectNode current = result(200, 11_000, 190.0);
+
+        assertTrue(LoadTestReport.compare(current, baseline, TOLERANCE).isEmpty());
+    }
+
+    @Test
+    void compare_SlowerP99_ShouldReportRegression() {
+        ObjectNode baseline = result(200, 10_000, 200.0);
+        ObjectNode current = result(200, 13_000, 200.0);
+
+        List<String> regressions = LoadTestReport.compare(current, baseline, TOLERANCE);
+
+        assertEquals(2, regressions.size());
+        assertTrue(regressions.get(0).startsWith("LIST p99"));
+        assertTrue(regressions.get(1).startsWith("total p99"));
+    }
+
+    @Test
+    void compare_LowerThroughput_ShouldReportRegression() {
+        ObjectNode baseline = result(200, 10_000, 200.0);
+        ObjectNode current = result(200, 10_000, 150.0);
+
+        List<String> regressions = LoadTestReport.compare(current, baseline, TOLERANCE);
+
+        assertEquals(2, regressions.size());
+        assertTrue(regressions.get(0).startsWith("LIST throughput"));
+    }
+
+    @Test
+    void compare_MoreErrorsWithFlatLatency_ShouldReportRegression() {
+        ObjectNode baseline = result(200, 10_000, 200.0);
+        ObjectNode current = result(200, 10_000, 200.0);
+        ((ObjectNode) current.get("endpoints").get("LIST")).put("errors", 50);
+        ((ObjectNode) current.get("total")).put("errors", 50);
+
+        List<String> regressions = LoadTestReport.compare(current, baseline, TOLERANCE);
+
+        assertEquals(2, regressions.size());
+        assertTrue(regressions.get(0).startsWith("LIST error rate"));
+        assertTrue(regressions.get(1).startsWith("total error rate"));
+    }
+
+    @Test
+    void compare_ErrorsWithinAllowance_ShouldReportNothing() {
+        ObjectNode baseline = result(200, 10_000, 200.0);
+        ObjectNode current = result(200, 10_000, 200.0);
+        ((ObjectNode) current.get("endpoints").get("LIST")).put("errors", 4);
+        ((ObjectNode) current.get("total")).put("errors", 4);
+
+        assertTrue(LoadTestReport.compare(current, baseline, TOLERANCE).isEmpty());
+    }
+
+    @Test
+    void compare_DifferentConfig_ShouldRefuseToCompareMetrics() {
+        ObjectNode baseline = result(100, 10_000, 100.0);
+        ObjectNode current = result(200, 10_000, 200.0);
+
+        List<String> regressions = LoadTestReport.compare(current, baseline, TOLERANCE);
+
+        assertEquals(1, regressions.size());
+        assertTrue(regressions.get(0).startsWith("config.rate"));
+    }
+
+    @Test
+    void compare_MalformedBaseline_ShouldNotThrow() throws Exception {
+        ObjectNode current = result(200, 10_000, 200.0);
+        ObjectNode baseline = current.deepCopy();
+        ((ObjectNode) baseline.get("endpoints").get("LIST")).remove("latencyMicros");
+        ((ObjectNode) baseline.get("total")).remove("requests");
+
+        assertTrue(LoadTestReport.compare(current, baseline, TOLERANCE).isEmpty());
+
+        JsonNode configOnly = objectMapper.readTree("{\"config\": " + current.get("config") + "}");
+        assertTrue(LoadTestReport.compare(current, configOnly, TOLERANCE).isEmpty());
+    }
+
+    @Test
+    void compare_BaselineWithoutConfig_ShouldReportMismatch() throws Exception {
+        ObjectNode current = result(200, 10_000, 200.0);
+
+        List<String> regressions = LoadTestReport.compare(current, objectMapper.readTree("{}"), TOLERANCE);
+
+        assertEquals(LoadTestReport.COMPARED_SETTINGS.size(), regressions.size());
+    }
+
+    private ObjectNode result(int rate, long p99, double throughput) {
+        ObjectNode root = objectMapper.createObjectNode();
+        ObjectNode config = root.putObject("config");
+        config.put("notes", 5000);
+        config.put("rate", rate);
+        config.put("durationSeconds", 60);
+        config.put("threads", 32);
+        config.put("seed", 42);
+        config.put("mongo", "in-process");
+        root.putObject("endpoints").set("LIST", summary(p99, throughput));
+        root.set("total", summary(p99, throughput));
+        return root;
+    }
+
+    private ObjectNode summary(long p99, double throughput) {
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("requests", 1000);
+        node.put("errors", 0);
+        node.put("throughput", throughput);
+        node.putObject("latencyMicros").put("p99", p99);
+        return node;
+    }
+}
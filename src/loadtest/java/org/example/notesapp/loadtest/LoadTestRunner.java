@@ -0,0 +1,128 @@
+package org.example.notesapp.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import org.example.notesapp.NotesappApplication;
+import org.example.notesapp.model.Note;
+import org.example.notesapp.repository.NoteRepository;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Starts the application against an in-process Mongo stand-in (or {@code loadtest.mongoUri}),
+ * seeds notes, drives a mixed workload and writes the results. Exits with status 1 when a
+ * baseline is given and the run regressed beyond {@code loadtest.tolerance}.
+ *
+ * <p>Run with {@code ./mvnw -Ploadtest verify -DskipTests}; see the README for the options.
+ */
+public class LoadTestRunner {
+
+    private static final int SEED_BATCH_SIZE = 1000;
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        System.setProperty("spring.devtools.restart.enabled", "false");
+
+        MongoServer mongoServer = null;
+        String mongoUri = config.getMongoUri();
+        if (mongoUri == null) {
+            mongoServer = new MongoServer(new MemoryBackend());
+            InetSocketAddress address = mongoServer.bind();
+            mongoUri = "mongodb://" + address.getHostString() + ":" + address.getPort() + "/loadtest";
+        }
+
+        // Passed as command line arguments so they take precedence over application.properties.
+        List<String> appArgs = new ArrayList<>(List.of(args));
+        appArgs.add("--server.port=0");
+        appArgs.add("--spring.data.mongodb.uri=" + mongoUri);
+        appArgs.add("--spring.docker.compose.enabled=false");
+        appArgs.add("--spring.main.banner-mode=off");
+        appArgs.add("--logging.level.root=WARN");
+
+        List<String> regressions;
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(NotesappApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .run(appArgs.toArray(new String[0]))) {
+
+            IdPool ids = new IdPool(seed(context.getBean(NoteRepository.class), config));
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            LoadGenerator generator = new LoadGenerator(baseUrl, ids, config.getThreads(), config.getSeed());
+
+            System.out.printf("Warming up for %ds at %d req/s%n", config.getWarmup().toSeconds(), config.getRate());
+            generator.run(config.getRate(), config.getWarmup());
+            System.out.printf("Measuring for %ds at %d req/s%n", config.getDuration().toSeconds(), config.getRate());
+            LoadGenerator.Result result = generator.run(config.getRate(), config.getDuration());
+
+            LoadTestReport report = new LoadTestReport(config, result);
+            ObjectNode json = report.toJson();
+            report.write(json);
+            report.print(json, System.out);
+            System.out.println("Results written to " + config.getOutput().toAbsolutePath());
+
+            regressions = compareWithBaseline(config, json);
+        } finally {
+            if (mongoServer != null) {
+                mongoServer.shutdownNow();
+            }
+        }
+
+        if (!regressions.isEmpty()) {
+            System.err.println("Performance regression against " + config.getBaseline() + ":");
+            regressions.forEach(regression -> System.err.println("  " + regression));
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Replaces the notes in the target database with generated ones. Existing notes are only
+     * deleted with {@code loadtest.dropExisting=true}, so a mistyped {@code loadtest.mongoUri}
+     * cannot wipe a real database.
+     */
+    private static List<String> seed(NoteRepository repository, LoadTestConfig config) {
+        long existing = repository.count();
+        if (existing > 0) {
+            if (!config.isDropExisting()) {
+                throw new IllegalStateException("Target database already holds " + existing + " notes. "
+                        + "Point loadtest.mongoUri at an empty database, or pass -Dloadtest.dropExisting=true "
+                        + "to delete them.");
+            }
+            System.out.printf("Deleting %d existing notes%n", existing);
+            repository.deleteAll();
+        }
+
+        int count = config.getNotes();
+        Random random = new Random(config.getSeed());
+        List<String> ids = new ArrayList<>(count);
+        for (int done = 0; done < count; done += SEED_BATCH_SIZE) {
+            List<Note> batch = new ArrayList<>(SEED_BATCH_SIZE);
+            for (int i = done; i < Math.min(count, done + SEED_BATCH_SIZE); i++) {
+                batch.add(NoteFixtures.note(random));
+            }
+            repository.saveAll(batch).forEach(note -> ids.add(note.getId()));
+        }
+        System.out.printf("Seeded %d notes%n", ids.size());
+        return ids;
+    }
+
+    private static List<String> compareWithBaseline(LoadTestConfig config, JsonNode json) throws Exception {
+        if (config.getBaseline() == null) {
+            return List.of();
+        }
+        if (!Files.exists(config.getBaseline())) {
+            System.out.println("Baseline " + config.getBaseline() + " not found, skipping comparison");
+            return List.of();
+        }
+        JsonNode baseline = new ObjectMapper().readTree(config.getBaseline().toFile());
+        return LoadTestReport.compare(json, baseline, config.getTolerance());
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.notesapp.loadtest;
+
+import org.example.notesapp.dto.NoteRequest;
+import org.example.notesapp.model.Note;
+import org.example.notesapp.model.Tag;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates notes whose tags and text sizes roughly follow what real users write:
+ * most notes carry zero or one tag and are a few sentences long, with a long tail of big ones.
+ */
+public final class NoteFixtures {
+
+    private static final String[] WORDS = {
+            "meeting", "project", "deadline", "call", "review", "budget", "plan", "idea", "follow", "up",
+            "client", "team", "draft", "report", "groceries", "gym", "doctor", "birthday", "travel", "book",
+            "the", "a", "and", "to", "of", "for", "with", "on", "before", "after", "today", "tomorrow",
+            "week", "urgent", "notes", "list", "check", "send", "update", "discuss", "finish", "start"
+    };
+
+    private static final double MEDIAN_WORDS = 60;
+    private static final double WORDS_SIGMA = 1.0;
+    private static final int MAX_WORDS = 4000;
+    private static final int CREATED_WITHIN_DAYS = 180;
+
+    private NoteFixtures() {
+    }
+
+    public static Note note(Random random) {
+        Note note = new Note(title(random), text(random), tags(random));
+        long secondsAgo = (long) (random.nextDouble() * CREATED_WITHIN_DAYS * 24 * 3600);
+        note.setCreatedDate(LocalDateTime.now(ZoneOffset.UTC).minusSeconds(secondsAgo));
+        return note;
+    }
+
+    public static NoteRequest request(Random random) {
+        return new NoteRequest(title(random), text(random), tags(random));
+    }
+
+    /**
+     * 30% untagged, 40% one tag, 20% two, 10% all three; PERSONAL is the most common single tag.
+     */
+    public static List<Tag> tags(Random random) {
+        double roll = random.nextDouble();
+        if (roll < 0.30) {
+            return new ArrayList<>();
+        }
+        if (roll < 0.70) {
+            double single = random.nextDouble();
+            return new ArrayList<>(List.of(single < 0.5 ? Tag.PERSONAL : single < 0.85 ? Tag.BUSINESS : Tag.IMPORTANT));
+        }
+        if (roll < 0.90) {
+            List<Tag> tags = new ArrayList<>(List.of(Tag.values()));
+            tags.remove(random.nextInt(tags.size()));
+            return tags;
+        }
+        return new ArrayList<>(List.of(Tag.values()));
+    }
+
+    private static String title(Random random) {
+        return sentence(random, 2 + random.nextInt(5));
+    }
+
+    /**
+     * Word count is log-normal around {@link #MEDIAN_WORDS}, capped at {@link #MAX_WORDS}.
+     */
+    private static String text(Random random) {
+        int words = (int) Math.round(MEDIAN_WORDS * Math.exp(WORDS_SIGMA * random.nextGaussian()));
+        return sentence(random, Math.max(1, Math.min(MAX_WORDS, words)));
+    }
+
+    private static String sentence(Random random, int words) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                builder.append(i % 12 == 0 ? ". " : " ");
+            }
+            builder.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,219 @@
+package org.example.notesapp.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarFile;
+
+/**
+ * Measures time-to-first-request and resident memory of the packaged jar, launched as a
+ * separate process, once as a plain {@code java -jar} and once from the extracted layout with
+ * a CDS archive (plus Spring AOT when the jar was built with {@code -Dprod}).
+ *
+ * <p>Run with {@code ./mvnw -Dprod -Ploadtest package exec:exec@startup-benchmark -DskipTests}.
+ */
+public class StartupBenchmark {
+
+    private static final String AOT_INITIALIZER =
+            "BOOT-INF/classes/org/example/notesapp/NotesappApplication__ApplicationContextInitializer.class";
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(120);
+    private static final long POLL_INTERVAL_MILLIS = 10;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(200))
+            .build();
+    private final String mongoUri;
+
+    private StartupBenchmark(String mongoUri) {
+        this.mongoUri = mongoUri;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path jar = Path.of(System.getProperty("startup.jar"));
+        Path workDir = Path.of(System.getProperty("startup.workDir", "target/startup"));
+        int iterations = Integer.getInteger("startup.iterations", 5);
+        Path output = Path.of(System.getProperty("startup.output", workDir.resolve("results.json").toString()));
+
+        MongoServer mongoServer = new MongoServer(new MemoryBackend());
+        InetSocketAddress address = mongoServer.bind();
+        try {
+            StartupBenchmark benchmark = new StartupBenchmark(
+                    "mongodb://" + address.getHostString() + ":" + address.getPort() + "/startup");
+            boolean aot = hasAotInitializer(jar);
+
+            List<String> plain = List.of("-jar", jar.toAbsolutePath().toString());
+            List<String> cds = benchmark.prepareCds(jar, workDir, aot);
+
+            ObjectNode results = new ObjectMapper().createObjectNode();
+            results.put("artifact", jar.getFileName().toString());
+            results.put("aot", aot);
+            results.put("iterations", iterations);
+            results.set("jar", benchmark.measure("java -jar", plain, iterations));
+            results.set("cds", benchmark.measure(aot ? "CDS + AOT" : "CDS", cds, iterations));
+
+            Files.createDirectories(output.toAbsolutePath().getParent());
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(output.toFile(), results);
+            System.out.println("Results written to " + output.toAbsolutePath());
+        } finally {
+            mongoServer.shutdownNow();
+        }
+    }
+
+    /**
+     * Extracts the jar and records a CDS archive with a training run that stops once the
+     * context is refreshed, the same way the Dockerfile does. Returns the launch arguments.
+     */
+    private List<String> prepareCds(Path jar, Path workDir, boolean aot) throws IOException, InterruptedException {
+        Path extracted = workDir.resolve("application").toAbsolutePath();
+        Path archive = workDir.resolve("application.jsa").toAbsolutePath();
+        run(List.of(javaExecutable(), "-Djarmode=tools", "-jar", jar.toAbsolutePath().toString(),
+                "extract", "--force", "--destination", extracted.toString()));
+
+        Path extractedJar = extracted.resolve(jar.getFileName());
+        List<String> launch = new ArrayList<>();
+        launch.add("-XX:SharedArchiveFile=" + archive);
+        if (aot) {
+            launch.add("-Dspring.aot.enabled=true");
+        }
+        launch.add("-jar");
+        launch.add(extractedJar.toString());
+
+        List<String> training = new ArrayList<>(List.of(javaExecutable(), "-XX:ArchiveClassesAtExit=" + archive,
+                "-Dspring.context.exit=onRefresh"));
+        training.addAll(launch.subList(1, launch.size()));
+        training.add("--spring.data.mongodb.auto-index-creation=false");
+        run(training);
+        return launch;
+    }
+
+    private ObjectNode measure(String name, List<String> launch, int iterations) throws Exception {
+        ArrayNode runs = new ObjectMapper().createArrayNode();
+        long[] startupMillis = new long[iterations];
+        long[] rssKb = new long[iterations];
+
+        for (int i = 0; i < iterations; i++) {
+            int port = freePort();
+            List<String> command = new ArrayList<>();
+            command.add(javaExecutable());
+            command.addAll(launch);
+            command.add("--server.port=" + port);
+            command.add("--spring.data.mongodb.uri=" + mongoUri);
+            command.add("--spring.docker.compose.enabled=false");
+
+            long start = System.nanoTime();
+            Process process = new ProcessBuilder(command)
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            try {
+                awaitFirstRequest(process, port);
+                startupMillis[i] = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                rssKb[i] = residentSetKb(process.pid());
+            } finally {
+                process.destroy();
+                process.waitFor(30, TimeUnit.SECONDS);
+            }
+
+            ObjectNode run = runs.addObject();
+            run.put("timeToFirstRequestMillis", startupMillis[i]);
+            run.put("rssKb", rssKb[i]);
+        }
+
+        ObjectNode node = new ObjectMapper().createObjectNode();
+        node.put("timeToFirstRequestMillisMedian", median(startupMillis));
+        node.put("rssKbMedian", median(rssKb));
+        node.set("runs", runs);
+        System.out.printf(Locale.ROOT, "%-10s time to first request %6d ms, RSS %7.1f MB (median of %d)%n",
+                name, median(startupMillis), median(rssKb) / 1024.0, iterations);
+        return node;
+    }
+
+    private void awaitFirstRequest(Process process, int port) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/notes?size=1"))
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Application exited with status " + process.exitValue());
+            }
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // Not listening yet.
+            }
+            Thread.sleep(POLL_INTERVAL_MILLIS);
+        }
+        throw new IllegalStateException("Application did not answer within " + STARTUP_TIMEOUT);
+    }
+
+    private static long residentSetKb(long pid) throws IOException, InterruptedException {
+        Path status = Path.of("/proc", String.valueOf(pid), "status");
+        if (Files.exists(status)) {
+            for (String line : Files.readAllLines(status)) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("\\D", ""));
+                }
+            }
+        }
+        Process ps = new ProcessBuilder("ps", "-o", "rss=", "-p", String.valueOf(pid)).start();
+        String output = new String(ps.getInputStream().readAllBytes()).trim();
+        ps.waitFor();
+        return output.isEmpty() ? -1 : Long.parseLong(output);
+    }
+
+    private static boolean hasAotInitializer(Path jar) throws IOException {
+        try (JarFile jarFile = new JarFile(jar.toFile())) {
+            return jarFile.getEntry(AOT_INITIALIZER) != null;
+        }
+    }
+
+    private static void run(List<String> command) throws IOException, InterruptedException {
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        int exit = process.waitFor();
+        if (exit != 0) {
+            throw new IllegalStateException("Command failed with status " + exit + ": " + String.join(" ", command));
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private static String javaExecutable() {
+        return Path.of(System.getProperty("java.home"), "bin", "java").toString();
+    }
+}
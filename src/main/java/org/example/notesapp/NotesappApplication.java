@@ -2,8 +2,10 @@ package org.example.notesapp;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cache.annotation.EnableCaching;
 
 @SpringBootApplication
+@EnableCaching
 public class NotesappApplication {
 
 	public static void main(String[] args) {
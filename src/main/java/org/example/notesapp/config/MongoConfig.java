@@ -0,0 +1,18 @@
+package org.example.notesapp.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+
+@Configuration
+public class MongoConfig {
+
+    /**
+     * Store {@code LocalDateTime} values through the driver codecs, which treat them as UTC,
+     * instead of shifting them by the JVM default timezone.
+     */
+    @Bean
+    public MongoCustomConversions mongoCustomConversions() {
+        return MongoCustomConversions.create(MongoCustomConversions.MongoConverterConfigurationAdapter::useNativeDriverJavaTimeCodecs);
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.notesapp.config;
+
+import org.example.notesapp.dto.HistogramBucket;
+import org.example.notesapp.dto.MultiGetRequest;
+import org.example.notesapp.dto.MultiGetResponse;
+import org.example.notesapp.dto.NoteDetail;
+import org.example.notesapp.dto.NoteRequest;
+import org.example.notesapp.dto.NoteSummary;
+import org.example.notesapp.model.Note;
+import org.example.notesapp.model.Tag;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Controllers return {@code ResponseEntity<?>} and the histogram is mapped from an aggregation,
+ * so AOT cannot infer which types Jackson and Spring Data bind. Listed here for native images.
+ */
+@Configuration
+@RegisterReflectionForBinding({
+        Note.class,
+        Tag.class,
+        NoteDetail.class,
+        NoteSummary.class,
+        NoteRequest.class,
+        MultiGetRequest.class,
+        MultiGetResponse.class,
+        HistogramBucket.class
+})
+public class NativeHintsConfig {
+}
@@ -1,7 +1,9 @@
 package org.example.notesapp.controller;
 
+import org.example.notesapp.model.HistogramInterval;
 import org.example.notesapp.model.Tag;
 import jakarta.validation.Valid;
+import org.example.notesapp.dto.MultiGetRequest;
 import org.example.notesapp.dto.NoteRequest;
 import org.example.notesapp.dto.NoteSummary;
 import org.example.notesapp.service.NoteService;
@@ -13,6 +15,12 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAccessor;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -42,10 +50,26 @@ public class NoteController {
     public ResponseEntity<Map<String, Object>> getAllNotes(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(required = false) List<Tag> tags) {
+            @RequestParam(required = false) List<Tag> tags,
+            @RequestParam(name = "from", required = false) String fromParam,
+            @RequestParam(name = "to", required = false) String toParam) {
+
+        LocalDateTime from;
+        LocalDateTime to;
+        try {
+            from = parseUtc(fromParam);
+            to = parseUtc(toParam);
+        } catch (DateTimeParseException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "Invalid date-time: " + e.getParsedString()));
+        }
+        if (from != null && to != null && !from.isBefore(to)) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "'from' must be before 'to'"));
+        }
 
         Pageable pageable = PageRequest.of(page, size);
-        Page<NoteSummary> notes = noteService.getAllNotes(pageable, tags);
+        Page<NoteSummary> notes = noteService.getAllNotes(pageable, tags, from, to);
 
         Map<String, Object> response = Map.of(
                 "content", notes.getContent(),
@@ -58,6 +82,31 @@ public class NoteController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/histogram")
+    public ResponseEntity<?> getHistogram(@RequestParam(defaultValue = "day") String interval) {
+        HistogramInterval histogramInterval = parseInterval(interval);
+        if (histogramInterval == null) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "Unsupported interval: " + interval));
+        }
+        return ResponseEntity.ok(noteService.getHistogram(histogramInterval));
+    }
+
+    /**
+     * Fetches many notes in one call. {@code view=summary} returns the listing fields only.
+     */
+    @PostMapping("/_mget")
+    public ResponseEntity<?> getNotesByIds(@Valid @RequestBody MultiGetRequest request,
+                                           @RequestParam(defaultValue = "detail") String view) {
+        if ("summary".equalsIgnoreCase(view)) {
+            return ResponseEntity.ok(noteService.getNoteSummariesByIds(request.getIds()));
+        }
+        if ("detail".equalsIgnoreCase(view)) {
+            return ResponseEntity.ok(noteService.getNotesByIds(request.getIds()));
+        }
+        return ResponseEntity.badRequest()
+                .body(Map.of("error", "Unsupported view: " + view));
+    }
 
     @GetMapping("/{id}")
     public ResponseEntity<?> getNoteById(@PathVariable String id) {
@@ -91,6 +140,30 @@ public class NoteController {
         return ResponseEntity.notFound().build();
     }
 
+    /**
+     * Parses an ISO date-time into UTC. Values with an offset are converted; values without
+     * one are taken as UTC, matching how {@code createdDate} is stored.
+     */
+    private LocalDateTime parseUtc(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        TemporalAccessor parsed = DateTimeFormatter.ISO_DATE_TIME
+                .parseBest(value.trim(), OffsetDateTime::from, LocalDateTime::from);
+        if (parsed instanceof OffsetDateTime offsetDateTime) {
+            return offsetDateTime.withOffsetSameInstant(ZoneOffset.UTC).toLocalDateTime();
+        }
+        return (LocalDateTime) parsed;
+    }
+
+    private HistogramInterval parseInterval(String interval) {
+        try {
+            return HistogramInterval.valueOf(interval.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     private List<Tag> parseTags(String tags) {
         if (tags == null || tags.trim().isEmpty()) {
             return null;
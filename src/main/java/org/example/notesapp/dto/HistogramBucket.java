@@ -0,0 +1,15 @@
+package org.example.notesapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class HistogramBucket {
+    private String bucket;
+    private long count;
+}
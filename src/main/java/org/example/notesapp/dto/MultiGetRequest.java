@@ -0,0 +1,23 @@
+package org.example.notesapp.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class MultiGetRequest {
+    public static final int MAX_IDS = 5000;
+
+    @NotEmpty(message = "Ids must not be empty")
+    @Size(max = MAX_IDS, message = "At most " + MAX_IDS + " ids can be requested at once")
+    private List<@NotBlank(message = "Ids must not be blank") String> ids;
+}
@@ -0,0 +1,20 @@
+package org.example.notesapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Notes in the order their ids were requested, plus the requested ids that do not exist.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class MultiGetResponse<T> {
+    private List<T> notes;
+    private List<String> missing;
+}
@@ -0,0 +1,20 @@
+package org.example.notesapp.model;
+
+public enum HistogramInterval {
+    DAY("%Y-%m-%d"),
+    WEEK("%G-W%V"),
+    MONTH("%Y-%m");
+
+    private final String bucketFormat;
+
+    HistogramInterval(String bucketFormat) {
+        this.bucketFormat = bucketFormat;
+    }
+
+    /**
+     * {@code $dateToString} format used as the bucket key; weeks follow ISO 8601 numbering.
+     */
+    public String getBucketFormat() {
+        return bucketFormat;
+    }
+}
@@ -5,15 +5,20 @@ import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.IndexDirection;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import jakarta.validation.constraints.NotBlank;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
 
 @Getter
 @Setter
-@Document(collation = "notes")
+@Document(collection = "note")
+@CompoundIndex(name = "tags_createdDate", def = "{'tags': 1, 'createdDate': -1}")
 @Schema(description = "User Note data")
 public class Note {
     @Id
@@ -25,11 +30,13 @@ public class Note {
     @Schema(description = "Text of note", example = "This is note text")
     private String text;
     @NotNull
+    @Indexed(direction = IndexDirection.DESCENDING)
+    @Schema(description = "Creation time in UTC", example = "2024-05-01T09:30:00")
     private LocalDateTime createdDate;
     private List<Tag> tags;
 
     public Note() {
-        this.createdDate = LocalDateTime.now();
+        this.createdDate = LocalDateTime.now(ZoneOffset.UTC);
     }
 
     public Note(String title, String text, List<Tag> tags) {
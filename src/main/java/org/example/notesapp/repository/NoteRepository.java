@@ -1,13 +1,18 @@
 package org.example.notesapp.repository;
 
+import org.example.notesapp.dto.HistogramBucket;
 import org.example.notesapp.model.Note;
 import org.example.notesapp.model.Tag;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Range;
+import org.springframework.data.mongodb.repository.Aggregation;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -17,7 +22,23 @@ public interface NoteRepository extends MongoRepository<Note, String> {
 
     Page<Note> findByTagsInOrderByCreatedDateDesc(List<Tag> tags, Pageable pageable);
 
+    Page<Note> findByCreatedDateBetweenOrderByCreatedDateDesc(Range<LocalDateTime> createdDate, Pageable pageable);
+
+    Page<Note> findByTagsInAndCreatedDateBetweenOrderByCreatedDateDesc(List<Tag> tags,
+                                                                       Range<LocalDateTime> createdDate,
+                                                                       Pageable pageable);
+
     @Query("{ 'tags': { $in: ?0 } }")
     Page<Note> findByTags(List<Tag> tags, Pageable pageable);
 
+    @Query(value = "{ '_id': { $in: ?0 } }", fields = "{ 'title': 1, 'createdDate': 1 }")
+    List<Note> findSummariesByIdIn(Collection<String> ids);
+
+    @Aggregation(pipeline = {
+            "{ $group: { _id: { $dateToString: { format: ?0, date: '$createdDate', timezone: 'UTC' } }, count: { $sum: 1 } } }",
+            "{ $sort: { _id: 1 } }",
+            "{ $project: { _id: 0, bucket: '$_id', count: 1 } }"
+    })
+    List<HistogramBucket> countByCreatedDateBucket(String bucketFormat);
+
 }
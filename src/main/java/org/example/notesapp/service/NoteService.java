@@ -1,25 +1,37 @@
 package org.example.notesapp.service;
 
+import org.example.notesapp.dto.HistogramBucket;
+import org.example.notesapp.dto.MultiGetResponse;
 import org.example.notesapp.dto.NoteDetail;
 import org.example.notesapp.dto.NoteRequest;
 import org.example.notesapp.dto.NoteSummary;
+import org.example.notesapp.model.HistogramInterval;
 import org.example.notesapp.model.Note;
 import org.example.notesapp.model.Tag;
 import org.example.notesapp.repository.NoteRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Range;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 public class NoteService {
 
+    public static final String HISTOGRAM_CACHE = "noteHistogram";
+    public static final int MULTI_GET_CHUNK_SIZE = 1000;
+
     @Autowired
     private NoteRepository noteRepository;
 
+    @CacheEvict(cacheNames = HISTOGRAM_CACHE, allEntries = true)
     public Note createNote(NoteRequest request) {
         Note note = new Note();
         note.setTitle(request.getTitle());
@@ -28,32 +40,44 @@ public class NoteService {
         return noteRepository.save(note);
     }
 
-    public Page<NoteSummary> getAllNotes(Pageable pageable, List<Tag> tags) {
+    /**
+     * Lists notes newest first. {@code from} is inclusive and {@code to} exclusive, both in UTC;
+     * either may be {@code null} to leave that side of the range open.
+     */
+    public Page<NoteSummary> getAllNotes(Pageable pageable, List<Tag> tags, LocalDateTime from, LocalDateTime to) {
+        boolean hasTags = tags != null && !tags.isEmpty();
+        boolean hasRange = from != null || to != null;
         Page<Note> notes;
-        if (tags != null && !tags.isEmpty()) {
+        if (hasRange) {
+            Range<LocalDateTime> createdDate = Range.of(
+                    from != null ? Range.Bound.inclusive(from) : Range.Bound.unbounded(),
+                    to != null ? Range.Bound.exclusive(to) : Range.Bound.unbounded());
+            notes = hasTags
+                    ? noteRepository.findByTagsInAndCreatedDateBetweenOrderByCreatedDateDesc(tags, createdDate, pageable)
+                    : noteRepository.findByCreatedDateBetweenOrderByCreatedDateDesc(createdDate, pageable);
+        } else if (hasTags) {
             notes = noteRepository.findByTagsInOrderByCreatedDateDesc(tags, pageable);
         } else {
             notes = noteRepository.findAllByOrderByCreatedDateDesc(pageable);
         }
 
-        return notes.map(note -> new NoteSummary(
-                note.getId(),
-                note.getTitle(),
-                note.getCreatedDate()
-        ));
+        return notes.map(this::toSummary);
     }
 
     public Optional<NoteDetail> getNoteById(String id) {
         return noteRepository.findById(id)
-                .map(note -> {
-                    NoteDetail noteDetail = new NoteDetail();
-                    noteDetail.setId(note.getId());
-                    noteDetail.setTitle(note.getTitle());
-                    noteDetail.setText(note.getText());
-                    noteDetail.setCreatedDate(note.getCreatedDate());
-                    noteDetail.setTags(note.getTags());
-                    return noteDetail;
-                });
+                .map(this::toDetail);
+    }
+
+    public MultiGetResponse<NoteDetail> getNotesByIds(List<String> ids) {
+        return multiGet(ids, noteRepository::findAllById, this::toDetail);
+    }
+
+    /**
+     * Same as {@link #getNotesByIds(List)} but loads only the fields shown in the listing.
+     */
+    public MultiGetResponse<NoteSummary> getNoteSummariesByIds(List<String> ids) {
+        return multiGet(ids, noteRepository::findSummariesByIdIn, this::toSummary);
     }
 
     public Optional<Note> updateNote(String id, NoteRequest request) {
@@ -66,6 +90,7 @@ public class NoteService {
                 });
     }
 
+    @CacheEvict(cacheNames = HISTOGRAM_CACHE, allEntries = true)
     public boolean deletedNote(String id) {
         if (noteRepository.existsById(id)) {
             noteRepository.deleteById(id);
@@ -74,6 +99,20 @@ public class NoteService {
         return false;
     }
 
+    /**
+     * Counts notes per UTC calendar bucket. Updates never move {@code createdDate},
+     * so only creates and deletes invalidate the cached result.
+     *
+     * <p>The cache is local to this instance and entries expire after
+     * {@code spring.cache.caffeine.spec} (60s by default). Writes on other instances, and a
+     * miss that stores its result after a concurrent create or delete evicted the cache,
+     * can therefore leave counts stale for at most that long.
+     */
+    @Cacheable(cacheNames = HISTOGRAM_CACHE, key = "#interval")
+    public List<HistogramBucket> getHistogram(HistogramInterval interval) {
+        return noteRepository.countByCreatedDateBucket(interval.getBucketFormat());
+    }
+
     public Map<String, Integer> getWordStatistics(String id) {
         Optional<Note> note = noteRepository.findById(id);
         if (note.isPresent()) {
@@ -82,6 +121,51 @@ public class NoteService {
         return Collections.emptyMap();
     }
 
+    /**
+     * Resolves ids with one {@code $in} query per {@link #MULTI_GET_CHUNK_SIZE} distinct ids and
+     * returns the notes in request order. Duplicate ids are returned once.
+     */
+    private <T> MultiGetResponse<T> multiGet(List<String> ids,
+                                             Function<List<String>, List<Note>> finder,
+                                             Function<Note, T> mapper) {
+        List<String> uniqueIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        Map<String, Note> found = new HashMap<>();
+        for (int from = 0; from < uniqueIds.size(); from += MULTI_GET_CHUNK_SIZE) {
+            List<String> chunk = uniqueIds.subList(from, Math.min(uniqueIds.size(), from + MULTI_GET_CHUNK_SIZE));
+            finder.apply(chunk).forEach(note -> found.put(note.getId(), note));
+        }
+
+        List<T> notes = new ArrayList<>(found.size());
+        List<String> missing = new ArrayList<>();
+        for (String id : uniqueIds) {
+            Note note = found.get(id);
+            if (note != null) {
+                notes.add(mapper.apply(note));
+            } else {
+                missing.add(id);
+            }
+        }
+        return new MultiGetResponse<>(notes, missing);
+    }
+
+    private NoteSummary toSummary(Note note) {
+        return new NoteSummary(
+                note.getId(),
+                note.getTitle(),
+                note.getCreatedDate()
+        );
+    }
+
+    private NoteDetail toDetail(Note note) {
+        NoteDetail noteDetail = new NoteDetail();
+        noteDetail.setId(note.getId());
+        noteDetail.setTitle(note.getTitle());
+        noteDetail.setText(note.getText());
+        noteDetail.setCreatedDate(note.getCreatedDate());
+        noteDetail.setTags(note.getTags());
+        return noteDetail;
+    }
+
     private Map<String, Integer> calculateWordStatistics(String text) {
         if (text == null || text.trim().isEmpty()) {
             return Collections.emptyMap();
@@ -1,9 +1,13 @@
 package org.example.notesapp.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.notesapp.dto.HistogramBucket;
+import org.example.notesapp.dto.MultiGetRequest;
+import org.example.notesapp.dto.MultiGetResponse;
 import org.example.notesapp.dto.NoteDetail;
 import org.example.notesapp.dto.NoteRequest;
 import org.example.notesapp.dto.NoteSummary;
+import org.example.notesapp.model.HistogramInterval;
 import org.example.notesapp.model.Note;
 import org.example.notesapp.model.Tag;
 import org.example.notesapp.service.NoteService;
@@ -26,6 +30,7 @@ import java.util.*;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -91,7 +96,7 @@ class NoteControllerTest {
     void getAllNotes_ShouldReturnPage() throws Exception {
         Page<NoteSummary> page = new PageImpl<>(List.of(testSummary));
 
-        lenient().when(noteService.getAllNotes(any(Pageable.class), any()))
+        lenient().when(noteService.getAllNotes(any(Pageable.class), any(), any(), any()))
                 .thenReturn(page);
 
         mockMvc.perform(get("/api/notes")
@@ -102,6 +107,120 @@ class NoteControllerTest {
                 .andExpect(jsonPath("$.content[0].title").value("Test Title"));
     }
 
+    @Test
+    void getAllNotes_WithDateRange_ShouldPassBoundsToService() throws Exception {
+        Page<NoteSummary> page = new PageImpl<>(List.of(testSummary));
+        LocalDateTime from = LocalDateTime.of(2024, 5, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2024, 6, 1, 0, 0);
+
+        when(noteService.getAllNotes(any(Pageable.class), isNull(), eq(from), eq(to)))
+                .thenReturn(page);
+
+        mockMvc.perform(get("/api/notes")
+                        .param("from", "2024-05-01T00:00:00")
+                        .param("to", "2024-06-01T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].title").value("Test Title"));
+    }
+
+    @Test
+    void getAllNotes_WithOffsetDateRange_ShouldConvertBoundsToUtc() throws Exception {
+        Page<NoteSummary> page = new PageImpl<>(List.of(testSummary));
+        LocalDateTime from = LocalDateTime.of(2024, 4, 30, 22, 0);
+        LocalDateTime to = LocalDateTime.of(2024, 6, 1, 0, 0);
+
+        when(noteService.getAllNotes(any(Pageable.class), isNull(), eq(from), eq(to)))
+                .thenReturn(page);
+
+        mockMvc.perform(get("/api/notes")
+                        .param("from", "2024-05-01T00:00:00+02:00")
+                        .param("to", "2024-06-01T00:00:00Z"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].title").value("Test Title"));
+    }
+
+    @Test
+    void getAllNotes_WithMalformedDate_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/notes").param("from", "yesterday"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(noteService);
+    }
+
+    @Test
+    void getAllNotes_WithInvertedDateRange_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/notes")
+                        .param("from", "2024-06-01T00:00:00")
+                        .param("to", "2024-05-01T00:00:00"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(noteService);
+    }
+
+    @Test
+    void getHistogram_ShouldReturnBuckets() throws Exception {
+        when(noteService.getHistogram(HistogramInterval.MONTH))
+                .thenReturn(List.of(new HistogramBucket("2024-05", 3)));
+
+        mockMvc.perform(get("/api/notes/histogram").param("interval", "month"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].bucket").value("2024-05"))
+                .andExpect(jsonPath("$[0].count").value(3));
+    }
+
+    @Test
+    void getHistogram_WithUnknownInterval_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/notes/histogram").param("interval", "year"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getNotesByIds_ShouldReturnNotesAndMissingIds() throws Exception {
+        when(noteService.getNotesByIds(List.of("1", "2")))
+                .thenReturn(new MultiGetResponse<>(List.of(testDetail), List.of("2")));
+
+        mockMvc.perform(post("/api/notes/_mget")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new MultiGetRequest(List.of("1", "2")))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.notes[0].text").value("Test Text"))
+                .andExpect(jsonPath("$.missing[0]").value("2"));
+    }
+
+    @Test
+    void getNotesByIds_WithSummaryView_ShouldReturnSummaries() throws Exception {
+        when(noteService.getNoteSummariesByIds(List.of("1")))
+                .thenReturn(new MultiGetResponse<>(List.of(testSummary), List.of()));
+
+        mockMvc.perform(post("/api/notes/_mget")
+                        .param("view", "summary")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new MultiGetRequest(List.of("1")))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.notes[0].title").value("Test Title"))
+                .andExpect(jsonPath("$.notes[0].text").doesNotExist());
+    }
+
+    @Test
+    void getNotesByIds_WithEmptyIds_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/api/notes/_mget")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new MultiGetRequest(List.of()))))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(noteService);
+    }
+
+    @Test
+    void getNotesByIds_WithNullOrBlankIds_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/api/notes/_mget")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": [null, \"\"]}"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(noteService);
+    }
+
     @Test
     void getNoteById_ShouldReturnNote() throws Exception {
         when(noteService.getNoteById("1")).thenReturn(Optional.of(testDetail));
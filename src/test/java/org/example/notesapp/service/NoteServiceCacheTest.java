@@ -0,0 +1,131 @@
+package org.example.notesapp.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.example.notesapp.dto.HistogramBucket;
+import org.example.notesapp.dto.NoteRequest;
+import org.example.notesapp.model.HistogramInterval;
+import org.example.notesapp.model.Note;
+import org.example.notesapp.model.Tag;
+import org.example.notesapp.repository.NoteRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@SpringJUnitConfig
+class NoteServiceCacheTest {
+
+    private static final String WEEK_FORMAT = HistogramInterval.WEEK.getBucketFormat();
+    private static final Duration TTL = Duration.ofSeconds(60);
+    private static final AtomicLong TICKER_NANOS = new AtomicLong();
+
+    @Configuration
+    @EnableCaching
+    static class Config {
+        @Bean
+        CacheManager cacheManager() {
+            CaffeineCacheManager cacheManager = new CaffeineCacheManager(NoteService.HISTOGRAM_CACHE);
+            cacheManager.setCaffeine(Caffeine.newBuilder()
+                    .expireAfterWrite(TTL)
+                    .ticker(TICKER_NANOS::get));
+            return cacheManager;
+        }
+
+        @Bean
+        NoteService noteService() {
+            return new NoteService();
+        }
+    }
+
+    @MockitoBean
+    private NoteRepository noteRepository;
+
+    @Autowired
+    private NoteService noteService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private NoteRequest testRequest;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(NoteService.HISTOGRAM_CACHE).clear();
+        when(noteRepository.countByCreatedDateBucket(WEEK_FORMAT))
+                .thenReturn(List.of(new HistogramBucket("2024-W18", 2)));
+
+        testRequest = new NoteRequest("Test title", "Test text", List.of(Tag.PERSONAL));
+    }
+
+    @Test
+    void getHistogram_ShouldBeCachedPerInterval() {
+        noteService.getHistogram(HistogramInterval.WEEK);
+        var result = noteService.getHistogram(HistogramInterval.WEEK);
+
+        assertEquals("2024-W18", result.get(0).getBucket());
+        verify(noteRepository, times(1)).countByCreatedDateBucket(WEEK_FORMAT);
+
+        noteService.getHistogram(HistogramInterval.DAY);
+        verify(noteRepository, times(1)).countByCreatedDateBucket(HistogramInterval.DAY.getBucketFormat());
+    }
+
+    @Test
+    void getHistogram_ShouldExpireAfterTtl() {
+        noteService.getHistogram(HistogramInterval.WEEK);
+        TICKER_NANOS.addAndGet(TTL.plusSeconds(1).toNanos());
+        noteService.getHistogram(HistogramInterval.WEEK);
+
+        verify(noteRepository, times(2)).countByCreatedDateBucket(WEEK_FORMAT);
+    }
+
+    @Test
+    void createNote_ShouldEvictHistogram() {
+        when(noteRepository.save(any(Note.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        noteService.getHistogram(HistogramInterval.WEEK);
+        noteService.createNote(testRequest);
+        noteService.getHistogram(HistogramInterval.WEEK);
+
+        verify(noteRepository, times(2)).countByCreatedDateBucket(WEEK_FORMAT);
+    }
+
+    @Test
+    void deleteNote_ShouldEvictHistogram() {
+        when(noteRepository.existsById("1")).thenReturn(true);
+
+        noteService.getHistogram(HistogramInterval.WEEK);
+        noteService.deletedNote("1");
+        noteService.getHistogram(HistogramInterval.WEEK);
+
+        verify(noteRepository, times(2)).countByCreatedDateBucket(WEEK_FORMAT);
+    }
+
+    @Test
+    void updateNote_ShouldKeepHistogram() {
+        Note note = new Note("Old title", "Old text", List.of());
+        note.setId("1");
+        when(noteRepository.findById("1")).thenReturn(Optional.of(note));
+        when(noteRepository.save(any(Note.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        noteService.getHistogram(HistogramInterval.WEEK);
+        noteService.updateNote("1", testRequest);
+        noteService.getHistogram(HistogramInterval.WEEK);
+
+        verify(noteRepository, times(1)).countByCreatedDateBucket(WEEK_FORMAT);
+    }
+}
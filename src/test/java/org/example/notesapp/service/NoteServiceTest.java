@@ -1,5 +1,8 @@
 package org.example.notesapp.service;
 
+import org.example.notesapp.dto.HistogramBucket;
+import org.example.notesapp.dto.NoteDetail;
+import org.example.notesapp.model.HistogramInterval;
 import org.example.notesapp.model.Note;
 import org.example.notesapp.model.Tag;
 import org.example.notesapp.dto.NoteRequest;
@@ -14,6 +17,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Range;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -69,13 +73,81 @@ class NoteServiceTest {
 
         when(noteRepository.findAllByOrderByCreatedDateDesc(pageable)).thenReturn(notePage);
 
-        var result = noteService.getAllNotes(pageable, null);
+        var result = noteService.getAllNotes(pageable, null, null, null);
 
         assertNotNull(result);
         assertEquals(1, result.getTotalElements());
         verify(noteRepository, times(1)).findAllByOrderByCreatedDateDesc(pageable);
     }
 
+    @Test
+    void getAllNotes_WithOpenEndedRange_ShouldQueryByCreatedDate() {
+        Pageable pageable = PageRequest.of(0, 10);
+        LocalDateTime from = LocalDateTime.of(2024, 5, 1, 0, 0);
+        Range<LocalDateTime> expected = Range.of(Range.Bound.inclusive(from), Range.Bound.unbounded());
+        Page<Note> notePage = new PageImpl<>(Collections.singletonList(testNote));
+
+        when(noteRepository.findByCreatedDateBetweenOrderByCreatedDateDesc(expected, pageable)).thenReturn(notePage);
+
+        var result = noteService.getAllNotes(pageable, null, from, null);
+
+        assertEquals(1, result.getTotalElements());
+        verify(noteRepository, never()).findAllByOrderByCreatedDateDesc(any());
+    }
+
+    @Test
+    void getAllNotes_WithTagsAndRange_ShouldCombineFilters() {
+        Pageable pageable = PageRequest.of(0, 10);
+        List<Tag> tags = List.of(Tag.BUSINESS);
+        LocalDateTime from = LocalDateTime.of(2024, 5, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2024, 6, 1, 0, 0);
+        Range<LocalDateTime> expected = Range.of(Range.Bound.inclusive(from), Range.Bound.exclusive(to));
+        Page<Note> notePage = new PageImpl<>(Collections.singletonList(testNote));
+
+        when(noteRepository.findByTagsInAndCreatedDateBetweenOrderByCreatedDateDesc(tags, expected, pageable))
+                .thenReturn(notePage);
+
+        var result = noteService.getAllNotes(pageable, tags, from, to);
+
+        assertEquals(1, result.getTotalElements());
+    }
+
+    @Test
+    void getHistogram_ShouldUseIntervalBucketFormat() {
+        List<HistogramBucket> buckets = List.of(new HistogramBucket("2024-W18", 2));
+        when(noteRepository.countByCreatedDateBucket("%G-W%V")).thenReturn(buckets);
+
+        assertEquals(buckets, noteService.getHistogram(HistogramInterval.WEEK));
+    }
+
+    @Test
+    void getNotesByIds_ShouldPreserveRequestOrderAndReportMissing() {
+        Note second = new Note("Second", "Second text", List.of());
+        second.setId("2");
+        when(noteRepository.findAllById(List.of("2", "3", "1"))).thenReturn(List.of(testNote, second));
+
+        var result = noteService.getNotesByIds(List.of("2", "3", "1", "2"));
+
+        assertEquals(List.of("2", "1"), result.getNotes().stream().map(NoteDetail::getId).toList());
+        assertEquals(List.of("3"), result.getMissing());
+        verify(noteRepository, times(1)).findAllById(any());
+    }
+
+    @Test
+    void getNoteSummariesByIds_ShouldQueryInChunks() {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < NoteService.MULTI_GET_CHUNK_SIZE + 1; i++) {
+            ids.add(String.valueOf(i));
+        }
+        when(noteRepository.findSummariesByIdIn(any())).thenReturn(List.of());
+
+        var result = noteService.getNoteSummariesByIds(ids);
+
+        assertTrue(result.getNotes().isEmpty());
+        assertEquals(ids, result.getMissing());
+        verify(noteRepository, times(2)).findSummariesByIdIn(any());
+    }
+
     @Test
     void getNoteById_WhenNoteExists_ShouldReturnNote() {
         when(noteRepository.findById("1")).thenReturn(Optional.of(testNote));